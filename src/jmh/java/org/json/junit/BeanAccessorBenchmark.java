@@ -0,0 +1,77 @@
+package org.json.junit;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.json.junit.data.GenericBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of one getter call through each accessor strategy a bean
+ * serializer could cache: <code>Method.invoke</code> (what the bean path
+ * uses today), a <code>MethodHandle</code>, and a
+ * <code>LambdaMetafactory</code> generated <code>Function</code>, with a
+ * direct call as the floor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanAccessorBenchmark {
+
+    private final GenericBean<Integer> bean = new GenericBean<Integer>(Integer.valueOf(42));
+    private Method method;
+    private MethodHandle handle;
+    private Function<Object, Object> function;
+
+    @SuppressWarnings("unchecked")
+    @Setup
+    public void setup() throws Throwable {
+        this.method = GenericBean.class.getMethod("getStringKey");
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = lookup.unreflect(this.method);
+        this.handle = getter.asType(MethodType.methodType(Object.class, Object.class));
+        CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                MethodType.methodType(Function.class),
+                MethodType.methodType(Object.class, Object.class),
+                getter, getter.type());
+        this.function = (Function<Object, Object>) site.getTarget().invokeExact();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return this.bean.getStringKey();
+    }
+
+    @Benchmark
+    public Object reflection() throws Exception {
+        return this.method.invoke(this.bean);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return this.handle.invokeExact((Object) this.bean);
+    }
+
+    @Benchmark
+    public Object lambdaMetafactory() {
+        return this.function.apply(this.bean);
+    }
+}
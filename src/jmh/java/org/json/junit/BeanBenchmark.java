@@ -0,0 +1,72 @@
+package org.json.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.json.JSONStringer;
+import org.json.junit.data.GenericBean;
+import org.json.junit.data.MyBeanCustomNameSubClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean to JSONObject conversion. {@link JSONObject#JSONObject(Object)}
+ * introspects the class and its annotations on every call;
+ * <code>manualGenericBean</code> builds the same object by calling the
+ * getters directly and is the floor that cached metadata and generated
+ * accessors are aiming for. The <code>*ToString</code> variants cover
+ * serializing a bean once, which today always builds the intermediate
+ * JSONObject.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanBenchmark {
+
+    private final GenericBean<Integer> genericBean = new GenericBean<Integer>(Integer.valueOf(42));
+    private final MyBeanCustomNameSubClass annotatedBean = new MyBeanCustomNameSubClass();
+
+    @Benchmark
+    public JSONObject genericBean() {
+        return new JSONObject(this.genericBean);
+    }
+
+    @Benchmark
+    public JSONObject annotatedBean() {
+        return new JSONObject(this.annotatedBean);
+    }
+
+    @Benchmark
+    public JSONObject manualGenericBean() {
+        GenericBean<Integer> bean = this.genericBean;
+        return new JSONObject()
+                .put("genericValue", bean.getGenericValue())
+                .put("intKey", bean.getIntKey())
+                .put("doubleKey", bean.getDoubleKey())
+                .put("stringKey", bean.getStringKey())
+                .put("escapeStringKey", bean.getEscapeStringKey())
+                .put("trueKey", bean.isTrueKey())
+                .put("falseKey", bean.isFalseKey())
+                .put("stringReaderKey", bean.getStringReaderKey().toString());
+    }
+
+    @Benchmark
+    public String annotatedBeanToString() {
+        return new JSONObject(this.annotatedBean).toString();
+    }
+
+    @Benchmark
+    public String annotatedBeanStringerToString() {
+        return new JSONStringer().array().value(new JSONObject(this.annotatedBean)).endArray().toString();
+    }
+}
@@ -0,0 +1,82 @@
+package org.json.junit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.junit.data.RecordBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSONObject to bean mapping as it is written by hand today, one
+ * <code>getString</code>/<code>getInt</code> lookup per field, and through
+ * <code>toMap()</code>. These are the baselines for a
+ * <code>JSONObject.toBean(Class)</code> binding with cached setters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class BeanMappingBenchmark {
+
+    private JSONArray records;
+
+    @Setup
+    public void setup() {
+        this.records = new JSONArray(BenchmarkPayloads.arrayPayload(PayloadSize.MEDIUM));
+    }
+
+    @Benchmark
+    public List<RecordBean> manualMapping() {
+        List<RecordBean> result = new ArrayList<RecordBean>(this.records.length());
+        for (int i = 0; i < this.records.length(); i++) {
+            JSONObject jsonObject = this.records.getJSONObject(i);
+            RecordBean record = new RecordBean();
+            record.setId(jsonObject.getInt("id"));
+            record.setTimestamp(jsonObject.getLong("timestamp"));
+            record.setName(jsonObject.getString("name"));
+            record.setActive(jsonObject.getBoolean("active"));
+            record.setScore(jsonObject.getDouble("score"));
+            JSONArray tags = jsonObject.getJSONArray("tags");
+            List<String> tagList = new ArrayList<String>(tags.length());
+            for (int j = 0; j < tags.length(); j++) {
+                tagList.add(tags.getString(j));
+            }
+            record.setTags(tagList);
+            result.add(record);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Benchmark
+    public List<RecordBean> toMapMapping() {
+        List<RecordBean> result = new ArrayList<RecordBean>(this.records.length());
+        for (Object element : this.records.toList()) {
+            Map<String, Object> map = (Map<String, Object>) element;
+            RecordBean record = new RecordBean();
+            record.setId(((Number) map.get("id")).intValue());
+            record.setTimestamp(((Number) map.get("timestamp")).longValue());
+            record.setName((String) map.get("name"));
+            record.setActive(((Boolean) map.get("active")).booleanValue());
+            record.setScore(((Number) map.get("score")).doubleValue());
+            record.setTags((List<String>) map.get("tags"));
+            result.add(record);
+        }
+        return result;
+    }
+}
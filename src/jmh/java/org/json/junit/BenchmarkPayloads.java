@@ -0,0 +1,71 @@
+package org.json.junit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Builds the JSON documents used by the benchmarks. The documents are
+ * generated deterministically so that runs on different machines parse
+ * exactly the same text.
+ */
+public final class BenchmarkPayloads {
+
+    private BenchmarkPayloads() {
+    }
+
+    /**
+     * Builds a single record. The mix of strings, escapes, integers, longs,
+     * doubles, booleans, nulls and nested values roughly matches the
+     * documents seen in production.
+     * @param i record number
+     * @return a new record
+     */
+    public static JSONObject record(int i) {
+        return new JSONObject()
+                .put("id", i)
+                .put("timestamp", 1500000000000L + i * 1000L)
+                .put("name", "record-" + i)
+                .put("description", "line one\nline \"two\" with a </tag> and café " + i)
+                .put("active", i % 2 == 0)
+                .put("score", i * 0.25d + 0.1d)
+                .put("ratio", 1.0d / (i + 3))
+                .put("missing", JSONObject.NULL)
+                .put("tags", new JSONArray().put("alpha").put("beta").put("gamma"))
+                .put("samples", new JSONArray().put(i).put(i * 2).put(i * 3.5d).put(-i))
+                .put("location", new JSONObject()
+                        .put("lat", 40.7128d + i / 1000.0d)
+                        .put("lon", -74.0060d - i / 1000.0d)
+                        .put("city", "New York"));
+    }
+
+    /**
+     * @param size how many records to include
+     * @return a JSON object with the records held in a "records" array
+     */
+    public static String objectPayload(PayloadSize size) {
+        if (size.records() == 1) {
+            return record(0).toString();
+        }
+        return new JSONObject()
+                .put("version", 1)
+                .put("count", size.records())
+                .put("records", records(size))
+                .toString();
+    }
+
+    /**
+     * @param size how many records to include
+     * @return a JSON array of records
+     */
+    public static String arrayPayload(PayloadSize size) {
+        return records(size).toString();
+    }
+
+    private static JSONArray records(PayloadSize size) {
+        JSONArray records = new JSONArray();
+        for (int i = 0; i < size.records(); i++) {
+            records.put(record(i));
+        }
+        return records;
+    }
+}
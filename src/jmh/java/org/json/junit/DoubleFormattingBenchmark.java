@@ -0,0 +1,89 @@
+package org.json.junit;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Double formatting, the bulk of metric export output.
+ * <code>doubleToStringJdk</code> is the raw <code>Double.toString</code>
+ * cost; <code>numberToString</code> and <code>doubleToString</code> add
+ * the library's trailing zero trimming on top of it, and
+ * <code>serializeArray</code> shows the cost inside a full write.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DoubleFormattingBenchmark {
+
+    private Double[] values;
+    private JSONArray jsonArray;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        this.values = new Double[1000];
+        this.jsonArray = new JSONArray();
+        for (int i = 0; i < this.values.length; i++) {
+            // gauges, ratios and the odd whole number, as seen in metric exports
+            double value;
+            switch (i % 4) {
+            case 0:
+                value = random.nextDouble() * 100;
+                break;
+            case 1:
+                value = random.nextDouble();
+                break;
+            case 2:
+                value = Math.round(random.nextDouble() * 1000000);
+                break;
+            default:
+                value = random.nextGaussian() * 1.0E12;
+            }
+            this.values[i] = Double.valueOf(value);
+            this.jsonArray.put(value);
+        }
+    }
+
+    @Benchmark
+    public void doubleToStringJdk(Blackhole bh) {
+        for (Double value : this.values) {
+            bh.consume(value.toString());
+        }
+    }
+
+    @Benchmark
+    public void numberToString(Blackhole bh) {
+        for (Double value : this.values) {
+            bh.consume(JSONObject.numberToString(value));
+        }
+    }
+
+    @Benchmark
+    public void doubleToString(Blackhole bh) {
+        for (Double value : this.values) {
+            bh.consume(JSONObject.doubleToString(value.doubleValue()));
+        }
+    }
+
+    @Benchmark
+    public String serializeArray() {
+        return this.jsonArray.toString();
+    }
+}
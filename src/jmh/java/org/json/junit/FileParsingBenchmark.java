@@ -0,0 +1,198 @@
+package org.json.junit;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of parsing a JSON document that lives in a file. The buffered
+ * Reader is the path used today; the memory mapped variant decodes the
+ * mapped pages a few thousand characters at a time, without a heap copy
+ * of the whole document, and is the baseline for a
+ * <code>JSONObject.parse(Path)</code> entry point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FileParsingBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public PayloadSize size;
+
+    private Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        this.file = Files.createTempFile("FileParsingBenchmark", ".json");
+        Files.write(this.file, BenchmarkPayloads.objectPayload(this.size).getBytes(StandardCharsets.UTF_8));
+        JSONObject expected = readAllBytes();
+        if (!expected.similar(bufferedReader()) || !expected.similar(memoryMapped())) {
+            throw new IllegalStateException("file parsing entry points disagree");
+        }
+        // an odd window size makes multi-byte sequences cross window boundaries
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            if (!expected.similar(new JSONObject(new JSONTokener(new MappedFileReader(channel, 4097))))) {
+                throw new IllegalStateException("windowed mapping disagrees");
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.file);
+    }
+
+    @Benchmark
+    public JSONObject bufferedReader() throws IOException {
+        File f = this.file.toFile();
+        try (Reader reader = new BufferedReader(new InputStreamReader(new FileInputStream(f), StandardCharsets.UTF_8))) {
+            return new JSONObject(new JSONTokener(reader));
+        }
+    }
+
+    @Benchmark
+    public JSONObject readAllBytes() throws IOException {
+        return new JSONObject(new String(Files.readAllBytes(this.file), StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public JSONObject memoryMapped() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+            return new JSONObject(new JSONTokener(new MappedFileReader(channel, MappedFileReader.WINDOW)));
+        }
+    }
+
+    /**
+     * Decodes a UTF-8 file through read only memory mapped windows into a
+     * small char buffer. Files larger than a window, including those over
+     * 2 GB that a single mapping cannot cover, are mapped one window after
+     * the other. mark() is not supported, so JSONTokener wraps this reader
+     * in a BufferedReader.
+     */
+    private static final class MappedFileReader extends Reader {
+        /** default window size, 64 MB */
+        static final int WINDOW = 1 << 26;
+
+        private final FileChannel channel;
+        private final long size;
+        private final int windowSize;
+        private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder();
+        private final CharBuffer chars = CharBuffer.allocate(8192);
+        private ByteBuffer window;
+        private long windowEnd;
+        private boolean eof;
+
+        /**
+         * @param channel file to read, positioned anywhere
+         * @param windowSize bytes to map at a time, at least 4 so that a
+         *            window always holds a complete character
+         * @throws IOException if the first window cannot be mapped
+         */
+        MappedFileReader(FileChannel channel, int windowSize) throws IOException {
+            this.channel = channel;
+            this.size = channel.size();
+            this.windowSize = windowSize;
+            this.chars.flip();
+            map(0);
+        }
+
+        /**
+         * Maps the window that starts at the given file position.
+         * @param start file position of the first byte to map
+         * @throws IOException if the mapping fails
+         */
+        private void map(long start) throws IOException {
+            long length = Math.min(this.windowSize, this.size - start);
+            this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+            this.windowEnd = start + length;
+        }
+
+        /**
+         * Decodes the next chunk of characters, moving to the next window
+         * when the current one holds no complete character.
+         * @return false at the end of the file
+         * @throws IOException if the file is not valid UTF-8
+         */
+        private boolean fill() throws IOException {
+            if (this.eof) {
+                return false;
+            }
+            this.chars.clear();
+            while (true) {
+                boolean last = this.windowEnd == this.size;
+                CoderResult result = this.decoder.decode(this.window, this.chars, last);
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (this.chars.position() > 0) {
+                    break;
+                }
+                if (last) {
+                    this.decoder.flush(this.chars);
+                    this.eof = true;
+                    break;
+                }
+                // carry an incomplete trailing sequence over to the next window
+                map(this.windowEnd - this.window.remaining());
+            }
+            this.chars.flip();
+            return this.chars.hasRemaining();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!this.chars.hasRemaining() && !fill()) {
+                return -1;
+            }
+            return this.chars.get();
+        }
+
+        @Override
+        public int read(char[] cbuf, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (!this.chars.hasRemaining() && !fill()) {
+                return -1;
+            }
+            int n = Math.min(len, this.chars.remaining());
+            this.chars.get(cbuf, off, n);
+            return n;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
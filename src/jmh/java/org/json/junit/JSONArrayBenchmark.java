@@ -0,0 +1,65 @@
+package org.json.junit;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse and serialize throughput for {@link org.json.JSONArray}.
+ * Run with <code>gradle jmh -PjmhArgs="JSONArrayBenchmark -prof gc"</code>
+ * to also get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JSONArrayBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public PayloadSize size;
+
+    private String text;
+    private JSONArray jsonArray;
+
+    @Setup
+    public void setup() {
+        this.text = BenchmarkPayloads.arrayPayload(this.size);
+        this.jsonArray = new JSONArray(this.text);
+    }
+
+    @Benchmark
+    public JSONArray parse() {
+        return new JSONArray(this.text);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return this.jsonArray.toString();
+    }
+
+    @Benchmark
+    public String serializeIndent() {
+        return this.jsonArray.toString(2);
+    }
+
+    @Benchmark
+    public StringWriter write() {
+        StringWriter writer = new StringWriter(this.text.length());
+        this.jsonArray.write(writer);
+        return writer;
+    }
+}
@@ -0,0 +1,81 @@
+package org.json.junit;
+
+import java.io.CharArrayWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parse and serialize throughput for {@link org.json.JSONObject}.
+ * Run with <code>gradle jmh -PjmhArgs="JSONObjectBenchmark -prof gc"</code>
+ * to also get allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JSONObjectBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public PayloadSize size;
+
+    private String text;
+    private JSONObject jsonObject;
+    private CharArrayWriter reusedWriter;
+
+    @Setup
+    public void setup() {
+        this.text = BenchmarkPayloads.objectPayload(this.size);
+        this.jsonObject = new JSONObject(this.text);
+        this.reusedWriter = new CharArrayWriter(this.text.length());
+    }
+
+    @Benchmark
+    public JSONObject parse() {
+        return new JSONObject(this.text);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return this.jsonObject.toString();
+    }
+
+    @Benchmark
+    public String serializeIndent() {
+        return this.jsonObject.toString(2);
+    }
+
+    @Benchmark
+    public StringWriter write() {
+        StringWriter writer = new StringWriter(this.text.length());
+        this.jsonObject.write(writer);
+        return writer;
+    }
+
+    /**
+     * Writes the same compact output as write() into a Writer that is
+     * reset and reused, so the allocation reported by
+     * <code>-prof gc</code> is only the serializer's own garbage.
+     * @return the reused writer
+     */
+    @Benchmark
+    public CharArrayWriter writeReusedWriter() {
+        this.reusedWriter.reset();
+        this.jsonObject.write(this.reusedWriter, 0, 0);
+        return this.reusedWriter;
+    }
+}
@@ -0,0 +1,106 @@
+package org.json.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONTokener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lexing cost of {@link org.json.JSONTokener} per input source. The
+ * tokener pulls one character per <code>Reader.read()</code> call, so
+ * comparing a String source with Reader sources shows how much of the
+ * parse time goes to reading characters rather than to building values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JSONTokenerBenchmark {
+
+    @Param({"MEDIUM", "LARGE"})
+    public PayloadSize size;
+
+    private String text;
+    private byte[] utf8;
+
+    @Setup
+    public void setup() {
+        this.text = BenchmarkPayloads.objectPayload(this.size);
+        this.utf8 = this.text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int nextFromString() {
+        return countChars(new JSONTokener(this.text));
+    }
+
+    @Benchmark
+    public int nextFromReader() {
+        return countChars(new JSONTokener(new StringReader(this.text)));
+    }
+
+    /**
+     * A Reader that does not support mark(), so the tokener wraps it in a
+     * BufferedReader, as it does for network and file streams.
+     * @return the number of characters read
+     */
+    @Benchmark
+    public int nextFromUnmarkableReader() {
+        Reader reader = new StringReader(this.text) {
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        };
+        return countChars(new JSONTokener(reader));
+    }
+
+    @Benchmark
+    public Object nextValueFromReader() {
+        return new JSONTokener(new StringReader(this.text)).nextValue();
+    }
+
+    /**
+     * UTF-8 bytes decoded while they are read.
+     * @return the parsed value
+     */
+    @Benchmark
+    public Object nextValueFromUtf8Stream() {
+        return new JSONTokener(new InputStreamReader(
+                new ByteArrayInputStream(this.utf8), StandardCharsets.UTF_8)).nextValue();
+    }
+
+    /**
+     * UTF-8 bytes decoded to a String up front, as HTTP body handlers do.
+     * @return the parsed value
+     */
+    @Benchmark
+    public Object nextValueFromDecodedUtf8() {
+        return new JSONTokener(new String(this.utf8, StandardCharsets.UTF_8)).nextValue();
+    }
+
+    private static int countChars(JSONTokener tokener) {
+        int count = 0;
+        while (tokener.next() != 0) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,78 @@
+package org.json.junit;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the ways of turning an unquoted token into a number on the
+ * data set used by <code>JSONObjectTest.timeNumberParsing</code>:
+ * <ul>
+ * <li>{@link JSONObject#stringToValue(String)}, the current library path</li>
+ * <li><code>new BigDecimal(String)</code> with exception driven fallback</li>
+ * <li>the <code>NUMBER_PATTERN</code> regular expression</li>
+ * <li>{@link NumberScanner#scan(String)}, a single pass scanner with no
+ * regular expression that returns the same types and values as
+ * <code>stringToValue</code> (checked by JSONObjectTest)</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class NumberParsingBenchmark {
+
+    /** Same expression as JSONObjectTest.NUMBER_PATTERN */
+    static final Pattern NUMBER_PATTERN = Pattern.compile("-?(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][+-]?\\d+)?");
+
+    /** Same data as JSONObjectTest.timeNumberParsing, minus the null entry */
+    private final String[] testData = Arrays.copyOfRange(
+            JSONObjectTest.TIME_NUMBER_PARSING_DATA, 1, JSONObjectTest.TIME_NUMBER_PARSING_DATA.length);
+
+    @Benchmark
+    public void stringToValue(Blackhole bh) {
+        for (String s : this.testData) {
+            bh.consume(JSONObject.stringToValue(s));
+        }
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole bh) {
+        for (String s : this.testData) {
+            try {
+                bh.consume(new BigDecimal(s));
+            } catch (NumberFormatException ignore) {
+                bh.consume(s);
+            }
+        }
+    }
+
+    @Benchmark
+    public void numberPattern(Blackhole bh) {
+        for (String s : this.testData) {
+            bh.consume(NUMBER_PATTERN.matcher(s).matches());
+        }
+    }
+
+    @Benchmark
+    public void scanner(Blackhole bh) {
+        for (String s : this.testData) {
+            bh.consume(NumberScanner.scan(s));
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package org.json.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Telemetry style arrays that hold only numbers. Every element is boxed
+ * today, so <code>-prof gc</code> on <code>parseLongs</code> and
+ * <code>parseDoubles</code> shows the per element overhead that a
+ * primitive-backed array would remove, and the sum benchmarks show the
+ * cost of unboxing through <code>getLong</code>/<code>getDouble</code>.
+ * The <code>toLongArray</code> and <code>toDoubleArray</code> variants
+ * copy a whole array into a primitive array, the baseline for bulk typed
+ * accessors on JSONArray. <code>stringToValueDoubles</code> and
+ * <code>parseDoubleJdk</code> convert the same decimal tokens one at a
+ * time, separating number conversion from tokenizing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = "-Xmx2g")
+public class NumericArrayBenchmark {
+
+    @Param({"1000", "1000000"})
+    public int length;
+
+    private String longText;
+    private String doubleText;
+    private JSONArray longs;
+    private JSONArray doubles;
+    private String[] doubleTokens;
+
+    @Setup
+    public void setup() {
+        this.longs = new JSONArray();
+        this.doubles = new JSONArray();
+        for (int i = 0; i < this.length; i++) {
+            this.longs.put(1500000000000L + i);
+            this.doubles.put(i * 0.001d + 20.5d);
+        }
+        this.longText = this.longs.toString();
+        this.doubleText = this.doubles.toString();
+        this.doubleTokens = this.doubleText.substring(1, this.doubleText.length() - 1).split(",");
+    }
+
+    @Benchmark
+    public JSONArray parseLongs() {
+        return new JSONArray(this.longText);
+    }
+
+    @Benchmark
+    public JSONArray parseDoubles() {
+        return new JSONArray(this.doubleText);
+    }
+
+    /**
+     * Numbers that are parsed and written back without being read, the
+     * case a lazy numeric token would make nearly free.
+     * @return the re-serialized text
+     */
+    @Benchmark
+    public String passThroughDoubles() {
+        return new JSONArray(this.doubleText).toString();
+    }
+
+    @Benchmark
+    public void stringToValueDoubles(Blackhole bh) {
+        for (String token : this.doubleTokens) {
+            bh.consume(JSONObject.stringToValue(token));
+        }
+    }
+
+    @Benchmark
+    public void parseDoubleJdk(Blackhole bh) {
+        for (String token : this.doubleTokens) {
+            bh.consume(Double.parseDouble(token));
+        }
+    }
+
+    @Benchmark
+    public long sumLongs() {
+        long sum = 0;
+        for (int i = 0; i < this.longs.length(); i++) {
+            sum += this.longs.getLong(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumDoubles() {
+        double sum = 0;
+        for (int i = 0; i < this.doubles.length(); i++) {
+            sum += this.doubles.getDouble(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long[] toLongArrayWithGetLong() {
+        long[] result = new long[this.longs.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = this.longs.getLong(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public long[] toLongArrayWithIterator() {
+        long[] result = new long[this.longs.length()];
+        int i = 0;
+        for (Object value : this.longs) {
+            result[i++] = ((Number) value).longValue();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] toDoubleArrayWithGetDouble() {
+        double[] result = new double[this.doubles.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = this.doubles.getDouble(i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public double[] toDoubleArrayWithIterator() {
+        double[] result = new double[this.doubles.length()];
+        int i = 0;
+        for (Object value : this.doubles) {
+            result[i++] = ((Number) value).doubleValue();
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String[] toStringArrayWithOptString() {
+        String[] result = new String[this.longs.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = this.longs.optString(i);
+        }
+        return result;
+    }
+}
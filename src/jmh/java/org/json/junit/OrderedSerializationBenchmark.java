@@ -0,0 +1,81 @@
+package org.json.junit;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONStringer;
+import org.json.JSONWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * What stable key order costs today. <code>defaultToString</code> is the
+ * default HashMap-backed path with no order guarantee;
+ * <code>sortedKeys</code> is what consumers that need diffable or signed
+ * output currently do, walking the tree and writing each object's keys
+ * in sorted order through {@link JSONStringer}. An insertion-ordered
+ * JSONObject should land close to <code>defaultToString</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderedSerializationBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public PayloadSize size;
+
+    private JSONObject jsonObject;
+
+    @Setup
+    public void setup() {
+        this.jsonObject = new JSONObject(BenchmarkPayloads.objectPayload(this.size));
+    }
+
+    @Benchmark
+    public String defaultToString() {
+        return this.jsonObject.toString();
+    }
+
+    @Benchmark
+    public String sortedKeys() {
+        JSONStringer stringer = new JSONStringer();
+        writeSorted(stringer, this.jsonObject);
+        return stringer.toString();
+    }
+
+    private static void writeSorted(JSONWriter writer, Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            String[] keys = object.keySet().toArray(new String[object.length()]);
+            Arrays.sort(keys);
+            writer.object();
+            for (String key : keys) {
+                writer.key(key);
+                writeSorted(writer, object.opt(key));
+            }
+            writer.endObject();
+        } else if (value instanceof JSONArray) {
+            writer.array();
+            for (Object element : (JSONArray) value) {
+                writeSorted(writer, element);
+            }
+            writer.endArray();
+        } else {
+            writer.value(value);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.json.junit;
+
+/**
+ * Payload sizes shared by the benchmarks. Each size describes how many
+ * records are generated by {@link BenchmarkPayloads}.
+ */
+public enum PayloadSize {
+    /** a single record, a few hundred bytes */
+    SMALL(1),
+    /** a few hundred records, tens of kilobytes */
+    MEDIUM(200),
+    /** tens of thousands of records, several megabytes */
+    LARGE(25000);
+
+    private final int records;
+
+    PayloadSize(int records) {
+        this.records = records;
+    }
+
+    /**
+     * @return the number of records in a payload of this size
+     */
+    public int records() {
+        return this.records;
+    }
+}
@@ -0,0 +1,74 @@
+package org.json.junit;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * String escaping through {@link JSONObject#quote(String)} and
+ * {@link JSONObject#quote(String, java.io.Writer)} on three kinds of text:
+ * plain ASCII where nothing needs escaping, text where escapes are
+ * frequent, and CJK text that passes through unescaped but is outside
+ * the ASCII range.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QuoteBenchmark {
+
+    @Param({"ascii", "escapes", "cjk"})
+    public String text;
+
+    @Param({"16", "4096"})
+    public int length;
+
+    private String value;
+    private CharArrayWriter writer;
+
+    @Setup
+    public void setup() {
+        final String unit;
+        if ("ascii".equals(this.text)) {
+            unit = "The quick brown fox jumps over the lazy dog. ";
+        } else if ("escapes".equals(this.text)) {
+            unit = "a\"b\\c\n</d>\t\u0001\r";
+        } else {
+            unit = "日本語のテキスト中文文本";
+        }
+        StringBuilder sb = new StringBuilder(this.length);
+        while (sb.length() < this.length) {
+            sb.append(unit);
+        }
+        sb.setLength(this.length);
+        this.value = sb.toString();
+        this.writer = new CharArrayWriter(this.length * 6 + 2);
+    }
+
+    @Benchmark
+    public String quote() {
+        return JSONObject.quote(this.value);
+    }
+
+    @Benchmark
+    public CharArrayWriter quoteToWriter() throws IOException {
+        this.writer.reset();
+        JSONObject.quote(this.value, this.writer);
+        return this.writer;
+    }
+}
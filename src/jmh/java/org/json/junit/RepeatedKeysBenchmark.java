@@ -0,0 +1,97 @@
+package org.json.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses arrays of records that all share the same keys. Every record
+ * currently gets its own key Strings and its own map. Key
+ * canonicalization would not change how much is allocated while parsing,
+ * only how much stays reachable afterwards, so {@link #parseAndRetain}
+ * reports the heap retained by the parsed array in the
+ * <code>retainedBytes</code> secondary result. Its time score includes
+ * the forced garbage collections and should be ignored. {@link #parse}
+ * is measured one shot at a time since a single 1M record parse takes
+ * seconds.
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RepeatedKeysBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int records;
+
+    private String text;
+    private JSONArray retained;
+
+    /**
+     * Secondary result of {@link #parseAndRetain}. JMH sums event counters
+     * over the measurement iterations, so that benchmark runs a single
+     * measurement iteration; the value is stable to a few hundred bytes.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+        /** heap used after GC with the parsed array reachable, minus the heap used before parsing */
+        public long retainedBytes;
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder sb = new StringBuilder(this.records * 200);
+        sb.append('[');
+        for (int i = 0; i < this.records; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"id\":").append(i)
+                .append(",\"timestamp\":").append(1500000000000L + i)
+                .append(",\"host\":\"host-").append(i % 16)
+                .append("\",\"metric\":\"cpu\",\"value\":").append(i * 0.5d)
+                .append(",\"ok\":true}");
+        }
+        sb.append(']');
+        this.text = sb.toString();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 3)
+    @Measurement(iterations = 5)
+    public JSONArray parse() {
+        return new JSONArray(this.text);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 1, time = 1)
+    @Measurement(iterations = 1, time = 1)
+    public void parseAndRetain(RetainedHeap heap) {
+        this.retained = null;
+        long before = usedHeapAfterGc();
+        this.retained = new JSONArray(this.text);
+        heap.retainedBytes = usedHeapAfterGc() - before;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
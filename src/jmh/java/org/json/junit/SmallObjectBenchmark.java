@@ -0,0 +1,76 @@
+package org.json.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of small JSONObjects, which make up most real documents. Run with
+ * <code>-prof gc</code>: the B/op of <code>build</code> and
+ * <code>parse</code> is dominated by the backing map and its entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SmallObjectBenchmark {
+
+    @Param({"2", "5", "16"})
+    public int keys;
+
+    private String[] names;
+    private String text;
+    private JSONObject jsonObject;
+
+    @Setup
+    public void setup() {
+        this.names = new String[this.keys];
+        for (int i = 0; i < this.keys; i++) {
+            this.names[i] = "field" + i;
+        }
+        this.jsonObject = build();
+        this.text = this.jsonObject.toString();
+    }
+
+    @Benchmark
+    public JSONObject build() {
+        JSONObject result = new JSONObject();
+        for (int i = 0; i < this.names.length; i++) {
+            result.put(this.names[i], i);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public JSONObject parse() {
+        return new JSONObject(this.text);
+    }
+
+    @Benchmark
+    public void get(Blackhole bh) {
+        for (int i = 0; i < this.names.length; i++) {
+            bh.consume(this.jsonObject.opt(this.names[i]));
+        }
+    }
+
+    @Benchmark
+    public void keySet(Blackhole bh) {
+        for (String key : this.jsonObject.keySet()) {
+            bh.consume(key);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package org.json.junit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parses a wide document and reads only a handful of its keys, the access
+ * pattern of services that pick three or four fields out of a large
+ * request. Comparing <code>parseOnly</code> with <code>parseAndReadFew</code>
+ * and <code>parseAndReadAll</code> shows how much of the cost is spent
+ * decoding members that are never read.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class SparseAccessBenchmark {
+
+    @Param({"20", "200"})
+    public int keys;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        JSONObject jsonObject = new JSONObject();
+        for (int i = 0; i < this.keys; i++) {
+            jsonObject.put("key" + i, BenchmarkPayloads.record(i));
+        }
+        jsonObject.put("id", 42);
+        jsonObject.put("user", "someone");
+        jsonObject.put("items", new JSONArray().put(1).put(2).put(3));
+        this.text = jsonObject.toString();
+    }
+
+    @Benchmark
+    public JSONObject parseOnly() {
+        return new JSONObject(this.text);
+    }
+
+    @Benchmark
+    public void parseAndReadFew(Blackhole bh) {
+        JSONObject jsonObject = new JSONObject(this.text);
+        bh.consume(jsonObject.getInt("id"));
+        bh.consume(jsonObject.getString("user"));
+        bh.consume(jsonObject.getJSONArray("items").length());
+        bh.consume(jsonObject.query("/key1/location/city"));
+    }
+
+    @Benchmark
+    public void parseAndReadAll(Blackhole bh) {
+        JSONObject jsonObject = new JSONObject(this.text);
+        for (String key : jsonObject.keySet()) {
+            bh.consume(jsonObject.get(key));
+        }
+    }
+}
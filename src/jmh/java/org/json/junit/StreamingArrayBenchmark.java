@@ -0,0 +1,98 @@
+package org.json.junit;
+
+import java.io.CharArrayWriter;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Exports the rows of a cursor-like Iterator as a JSON array.
+ * <code>materialized</code> collects the rows into a JSONArray first, the
+ * way <code>JSONObject.put(String, Collection)</code> does;
+ * <code>streamed</code> writes each row through a {@link JSONWriter} as
+ * soon as the iterator returns it. Run with <code>-prof gc</code> to
+ * compare the allocation per export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class StreamingArrayBenchmark {
+
+    @Param({"1000", "100000"})
+    public int rows;
+
+    private CharArrayWriter writer;
+
+    @Setup
+    public void setup() {
+        this.writer = new CharArrayWriter(this.rows * 64);
+    }
+
+    @Benchmark
+    public CharArrayWriter materialized() {
+        this.writer.reset();
+        JSONArray jsonArray = new JSONArray();
+        for (Iterator<JSONObject> it = cursor(); it.hasNext();) {
+            jsonArray.put(it.next());
+        }
+        new JSONObject().put("rows", jsonArray).write(this.writer);
+        return this.writer;
+    }
+
+    @Benchmark
+    public CharArrayWriter streamed() {
+        this.writer.reset();
+        JSONWriter jsonWriter = new JSONWriter(this.writer);
+        jsonWriter.object().key("rows").array();
+        for (Iterator<JSONObject> it = cursor(); it.hasNext();) {
+            jsonWriter.value(it.next());
+        }
+        jsonWriter.endArray().endObject();
+        return this.writer;
+    }
+
+    /**
+     * @return an iterator that builds each row on demand, like a database
+     *  cursor
+     */
+    private Iterator<JSONObject> cursor() {
+        return new Iterator<JSONObject>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return this.next < StreamingArrayBenchmark.this.rows;
+            }
+
+            @Override
+            public JSONObject next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int i = this.next++;
+                return new JSONObject()
+                        .put("id", i)
+                        .put("name", "row-" + i)
+                        .put("value", i * 0.5d);
+            }
+        };
+    }
+}
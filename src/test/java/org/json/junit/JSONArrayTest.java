@@ -319,6 +319,38 @@ public class JSONArrayTest {
         assertTrue("Array value null", jsonArray.isNull(-1));
     }
 
+    /**
+     * An array that holds only numbers keeps the element types chosen by
+     * the parser, converts between them in the typed getters, and accepts
+     * non-numeric values afterwards without losing the numbers around
+     * them. A primitive-backed numeric array must behave the same way.
+     */
+    @SuppressWarnings("boxing")
+    @Test
+    public void numericArrayValues() {
+        JSONArray jsonArray = new JSONArray("[1,-2,3000000000,2.5,-0.0,1e3]");
+        assertEquals(Integer.valueOf(1), jsonArray.get(0));
+        assertEquals(Integer.valueOf(-2), jsonArray.get(1));
+        assertEquals(Long.valueOf(3000000000L), jsonArray.get(2));
+        assertEquals(Double.valueOf(2.5), jsonArray.get(3));
+        assertEquals(Double.valueOf(-0.0), jsonArray.get(4));
+        assertEquals(Double.valueOf(1000), jsonArray.get(5));
+
+        assertEquals(3000000000L, jsonArray.getLong(2));
+        assertEquals(2L, jsonArray.getLong(3));
+        assertEquals(-2.0, jsonArray.getDouble(1), 0);
+        assertEquals(3.0E9, jsonArray.getDouble(2), 0);
+        assertEquals("int truncates like a cast", -1294967296, jsonArray.getInt(2));
+        assertEquals(1000, jsonArray.getInt(5));
+
+        jsonArray.put("x");
+        jsonArray.put(1, "y");
+        jsonArray.put(8, 7);
+        assertEquals("[1,\"y\",3000000000,2.5,-0,1000,\"x\",null,7]", jsonArray.toString());
+        assertEquals(2.5, jsonArray.getDouble(3), 0);
+        assertEquals(7, jsonArray.getLong(8));
+    }
+
     /**
      * Create a JSONArray doc with a variety of different elements.
      * Confirm that attempting to get the wrong types via the get[type]()
@@ -694,6 +726,39 @@ public class JSONArrayTest {
         assertTrue("jsonArray should be empty", jsonArray.isEmpty());
     }
 
+    /**
+     * Objects parsed from the same array with identical keys must stay
+     * independent, so that sharing key instances between them never lets
+     * a put() or remove() on one object show up in another.
+     */
+    @Test
+    public void sameKeyObjectsAreIndependent() {
+        String arrayStr =
+            "["+
+                "{\"id\":1,\"name\":\"a\"},"+
+                "{\"id\":2,\"name\":\"b\"},"+
+                "{\"id\":3,\"name\":\"c\"}"+
+            "]";
+        JSONArray jsonArray = new JSONArray(arrayStr);
+        JSONObject first = jsonArray.getJSONObject(0);
+        JSONObject second = jsonArray.getJSONObject(1);
+        JSONObject third = jsonArray.getJSONObject(2);
+        assertEquals(first.keySet(), third.keySet());
+
+        first.put("extra", true);
+        second.remove("id");
+        third.put("name", "changed");
+
+        assertEquals(3, first.length());
+        assertEquals("a", first.getString("name"));
+        assertEquals(1, second.length());
+        assertFalse(second.has("id"));
+        assertEquals(2, third.length());
+        assertFalse(third.has("extra"));
+        assertEquals(3, third.getInt("id"));
+        assertEquals("changed", third.getString("name"));
+    }
+
     /**
      * Exercise the JSONArray.similar() method with various parameters
      * and confirm the results when not similar.
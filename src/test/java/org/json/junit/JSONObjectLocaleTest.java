@@ -53,4 +53,27 @@ public class JSONObjectLocaleTest {
         assertEquals("expected jsontr[i] == beanI", "beanI", jsontr.getString("i"));
         assertEquals("expected jsontr[id] == beanId", "beanId", jsontr.getString("id"));
     }
+
+    /**
+     * Converts the same bean class alternately under the Turkish and the
+     * English locale, starting with Turkish. Any accessor or name resolved
+     * on the first call and reused afterwards must still produce the
+     * locale-neutral keys.
+     */
+    @Test
+    public void jsonObjectByLocaleBeanAlternatingLocales() {
+        final Locale defaultLocale = Locale.getDefault();
+        try {
+            MyLocaleBean myLocaleBean = new MyLocaleBean();
+            for (int i = 0; i < 10; i++) {
+                Locale.setDefault(new Locale(i % 2 == 0 ? "tr" : "en"));
+                JSONObject jsonObject = new JSONObject(myLocaleBean);
+                assertEquals("expected size 2, found: " +jsonObject.length(), 2, jsonObject.length());
+                assertEquals("expected [i] == beanI", "beanI", jsonObject.getString("i"));
+                assertEquals("expected [id] == beanId", "beanId", jsonObject.getString("id"));
+            }
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
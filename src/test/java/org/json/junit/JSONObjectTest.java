@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Random;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
@@ -31,6 +32,7 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.JSONPointerException;
+import org.json.JSONTokener;
 import org.json.XML;
 import org.json.junit.data.BrokenToString;
 import org.json.junit.data.ExceptionalBean;
@@ -68,6 +70,35 @@ public class JSONObjectTest {
      */
     static final Pattern NUMBER_PATTERN = Pattern.compile("-?(?:0|[1-9]\\d*)(?:\\.\\d+)?(?:[eE][+-]?\\d+)?");
 
+    /**
+     * Number parsing test data, shared by timeNumberParsing, the
+     * stringToValue tests and NumberParsingBenchmark.
+     */
+    static final String[] TIME_NUMBER_PARSING_DATA = new String[] {
+            null,
+            "",
+            "100",
+            "-100",
+            "abc123",
+            "012345",
+            "100.5e199",
+            "-100.5e199",
+            "DEADBEEF",
+            "0xDEADBEEF",
+            "1234567890.1234567890",
+            "-1234567890.1234567890",
+            "adloghakuidghauiehgauioehgdkjfb nsruoh aeu noerty384 nkljfgh "
+                + "395h tdfn kdz8yt3 4hkls gn.ey85 4hzfhnz.o8y5a84 onvklt "
+                + "yh389thub nkz8y49lihv al4itlaithknty8hnbl"
+            // long (in length) number sequences with invalid data at the end of the
+            // string offer very poor performance for the REGEX.
+            ,"123467890123467890123467890123467890123467890123467890123467"
+                + "8901234678901234678901234678901234678901234678901234678"
+                + "9012346789012346789012346789012346789012346789012346789"
+                + "0a"
+    };
+
+
     /**
      * Tests that the similar method is working as expected.
      */
@@ -95,32 +126,56 @@ public class JSONObjectTest {
         
     }
     
+    /**
+     * Exercises put/get/remove/keySet/similar on objects from 0 to 40
+     * keys, built in opposite insertion orders. The results must not depend
+     * on object size or insertion order, whatever storage backs the
+     * JSONObject at a given size.
+     */
+    @Test
+    public void verifyObjectsAcrossSizes() {
+        for (int size = 0; size <= 40; size++) {
+            JSONObject ascending = new JSONObject();
+            JSONObject descending = new JSONObject();
+            for (int i = 0; i < size; i++) {
+                ascending.put("key" + i, i);
+                descending.put("key" + (size - 1 - i), size - 1 - i);
+            }
+            assertEquals(size, ascending.length());
+            assertEquals(ascending.keySet(), descending.keySet());
+            assertTrue("size " + size + " should be similar", ascending.similar(descending));
+            assertTrue("size " + size + " should be similar",
+                    ascending.similar(new JSONObject(descending.toString())));
+            for (int i = 0; i < size; i++) {
+                assertEquals(i, ascending.getInt("key" + i));
+            }
+            assertFalse(ascending.has("key" + size));
+
+            // replacing a value keeps the length
+            if (size > 0) {
+                ascending.put("key0", "replaced");
+                assertEquals(size, ascending.length());
+                assertEquals("replaced", ascending.get("key0"));
+                assertFalse(ascending.similar(descending));
+            }
+
+            // remove every other key and confirm the rest survive
+            for (int i = 0; i < size; i += 2) {
+                assertNotNull(ascending.remove("key" + i));
+                descending.remove("key" + i);
+            }
+            assertEquals(size / 2, ascending.length());
+            assertTrue("size " + size + " should be similar after remove", ascending.similar(descending));
+            for (int i = 1; i < size; i += 2) {
+                assertEquals(i, ascending.getInt("key" + i));
+            }
+        }
+    }
+
     @Test
     public void timeNumberParsing() {
         // test data to use
-        final String[] testData = new String[] {
-                null,
-                "",
-                "100",
-                "-100",
-                "abc123",
-                "012345",
-                "100.5e199",
-                "-100.5e199",
-                "DEADBEEF",
-                "0xDEADBEEF",
-                "1234567890.1234567890",
-                "-1234567890.1234567890",
-                "adloghakuidghauiehgauioehgdkjfb nsruoh aeu noerty384 nkljfgh "
-                    + "395h tdfn kdz8yt3 4hkls gn.ey85 4hzfhnz.o8y5a84 onvklt "
-                    + "yh389thub nkz8y49lihv al4itlaithknty8hnbl"
-                // long (in length) number sequences with invalid data at the end of the
-                // string offer very poor performance for the REGEX.
-                ,"123467890123467890123467890123467890123467890123467890123467"
-                    + "8901234678901234678901234678901234678901234678901234678"
-                    + "9012346789012346789012346789012346789012346789012346789"
-                    + "0a"
-        };
+        final String[] testData = TIME_NUMBER_PARSING_DATA;
         final int testDataLength = testData.length;
         /**
          * Changed to 1000 for faster test runs
@@ -660,6 +715,37 @@ public class JSONObjectTest {
                 jsonObject.has("Getable"));
     }
 
+    /**
+     * Converting the same bean classes over and over must keep reading the
+     * current getter values, calling each getter once per conversion, and
+     * keep the property names of a subclass and its superclass apart, so
+     * that per-class caching of the introspection cannot leak values or
+     * names between calls or classes.
+     */
+    @Test
+    public void jsonObjectByBeanRepeated() {
+        GenericBean<Integer> bean = new GenericBean<>(0);
+        for (int i = 0; i < 100; i++) {
+            bean.setGenericValue(i);
+            JSONObject jsonObject = new JSONObject(bean);
+            assertEquals(i, jsonObject.getInt("genericValue"));
+            assertEquals("Expected the getter to be called once per conversion",
+                    i + 1, bean.genericGetCounter);
+
+            JSONObject parent = new JSONObject(new MyBeanCustomName());
+            JSONObject child = new JSONObject(new MyBeanCustomNameSubClass());
+            assertEquals(5, parent.length());
+            assertTrue(parent.has("someInt"));
+            assertTrue(parent.has("Some Weird NAme that Normally Wouldn't be possible!"));
+            assertEquals(42, parent.getInt("someInt"));
+            assertEquals("someStringValue", parent.getString("myStringField"));
+            assertEquals(7, child.length());
+            assertFalse(child.has("someInt"));
+            assertEquals(43, child.getInt("newIntFieldName"));
+            assertEquals("subClassString", child.getString("myStringField"));
+        }
+    }
+
     /**
      * A bean is also an object. But in order to test the JSONObject
      * ctor that takes an object and a list of names, 
@@ -781,6 +867,63 @@ public class JSONObjectTest {
         }
     }
 
+    /**
+     * Parse cases taken from the tests in this class. Every way of parsing
+     * them has to produce the same tree.
+     */
+    private static final String[] PARSE_CASES = {
+        "{}",
+        "{\"key\":null}",
+        "{\"trueKey\":true,\"falseKey\":false,\"stringKey\":\"hello world!\",\"intKey\":42,"
+            + "\"longKey\":1234567890123456789,\"doubleKey\":-23.45e7,\"negZeroKey\":-0.0,"
+            + "\"arrayKey\":[0,1,2],\"objectKey\":{\"myKey\":\"myVal\"}}",
+        "{\"numberWithDecimals\":299792.457999999984,\"largeNumber\":12345678901234567890,"
+            + "\"preciseNumber\":0.2000000000000000111,\"largeExponent\":-23.45e2327}",
+        "{\"key1\":\"value1\",\"key2\":[1,false,3.14]}",
+        "{\"key1\":[1,2,{\"key3\":true}],\"key2\":{\"key1\":\"val1\",\"key2\":{\"key2\":null},"
+            + "\"key3\":42,\"key4\":[]},\"key3\":[[\"value1\",2.1],[null]]}",
+        "{\"escapes\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u1234\",\"unquoted\":abc , 'single':'quoted' }",
+        "{ \"spaces\" : [ 1 , { } , [ ] ] ,\n\"newline\":\"x\"}"
+    };
+
+    /**
+     * Runs the parse cases through every public entry point, including a
+     * parse on a thread with a 256 KB stack, and checks that the trees are
+     * identical. A non-recursive parser can be added to this list.
+     * @throws InterruptedException if the small stack thread is interrupted
+     */
+    @Test
+    public void parseCasesAgreeAcrossEntryPoints() throws InterruptedException {
+        final List<String> cases = new ArrayList<String>(Arrays.asList(PARSE_CASES));
+        cases.add(nestedObjectsAndArrays(40));
+
+        for (final String str : cases) {
+            final JSONObject expected = new JSONObject(str);
+            assertTrue(str, expected.similar(new JSONObject(new JSONTokener(str))));
+            assertTrue(str, expected.similar(new JSONObject(new JSONTokener(new StringReader(str)))));
+            assertTrue(str, expected.similar(new JSONTokener(str).nextValue()));
+            assertTrue(str, expected.similar(new JSONObject(expected.toString())));
+
+            final Object result = Util.parseOnSmallStack(str);
+            assertTrue(str + " on a small stack: " + result, expected.similar(result));
+        }
+    }
+
+    /**
+     * @param pairs how many <code>{"k":[</code> pairs to nest
+     * @return an object nested twice as many levels deep as pairs
+     */
+    private static String nestedObjectsAndArrays(int pairs) {
+        StringBuilder nested = new StringBuilder(pairs * 8);
+        for (int i = 0; i < pairs; i++) {
+            nested.append("{\"k\":[");
+        }
+        for (int i = 0; i < pairs; i++) {
+            nested.append("]}");
+        }
+        return nested.toString();
+    }
+
     /**
      * Exercise some JSONObject get[type] and opt[type] methods
      */
@@ -931,6 +1074,89 @@ public class JSONObjectTest {
                 JSONObject.stringToValue(str).equals("9223372036854775808"));
     }
 
+    /**
+     * Documents how stringToValue() classifies the timeNumberParsing data
+     * and the Integer/Long boundaries. A replacement number scanner must
+     * keep returning the same types and values.
+     */
+    @Test
+    public void stringToValueTimeNumberParsingData() {
+        final String[] testData = TIME_NUMBER_PARSING_DATA;
+        // leading zeros, hex and tokens with garbage currently evaluate to string
+        final Object[] expected = new Object[] {
+                null,
+                "",
+                Integer.valueOf(100),
+                Integer.valueOf(-100),
+                "abc123",
+                "012345",
+                Double.valueOf(100.5e199),
+                Double.valueOf(-100.5e199),
+                "DEADBEEF",
+                "0xDEADBEEF",
+                Double.valueOf(1234567890.1234567890),
+                Double.valueOf(-1234567890.1234567890),
+                testData[12],
+                testData[13]
+        };
+        assertEquals(expected.length, testData.length);
+        // testData[0] is null, which stringToValue does not accept
+        for (int i = 1; i < testData.length; i++) {
+            assertEquals(testData[i], expected[i], JSONObject.stringToValue(testData[i]));
+        }
+
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), JSONObject.stringToValue("2147483647"));
+        assertEquals(Long.valueOf(2147483648L), JSONObject.stringToValue("2147483648"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), JSONObject.stringToValue("-2147483648"));
+        assertEquals(Long.valueOf(-2147483649L), JSONObject.stringToValue("-2147483649"));
+        assertEquals(Long.valueOf(Long.MAX_VALUE), JSONObject.stringToValue("9223372036854775807"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), JSONObject.stringToValue("-9223372036854775808"));
+        assertEquals(Double.valueOf(100000), JSONObject.stringToValue("1e5"));
+        assertEquals(Double.valueOf(0.0015), JSONObject.stringToValue("1.5E-3"));
+        assertEquals("1e", JSONObject.stringToValue("1e"));
+        assertEquals("--1", JSONObject.stringToValue("--1"));
+    }
+
+    /**
+     * The single pass scanner used by NumberParsingBenchmark must return
+     * the same types and values as stringToValue(), both on the
+     * timeNumberParsing data and boundary cases and on random tokens built
+     * from number characters.
+     */
+    @Test
+    public void numberScannerMatchesStringToValue() {
+        for (int i = 1; i < TIME_NUMBER_PARSING_DATA.length; i++) {
+            final String s = TIME_NUMBER_PARSING_DATA[i];
+            assertEquals(s, JSONObject.stringToValue(s), NumberScanner.scan(s));
+        }
+        final String[] testData = new String[] {
+                "0", "-0", "00", "-00", "-01", "0.0", "-0.0", "1.", "-.5", ".5", "-", "-.",
+                "2147483647", "2147483648", "-2147483648", "-2147483649",
+                "9223372036854775807", "9223372036854775808",
+                "-9223372036854775808", "-9223372036854775809",
+                "12345678901234567890", "1e400", "-1e400", "1e-400", "1.7976931348623157e308",
+                "4.9e-324", "0.1234567890123456789", "1e", "1e+", "--1", "+1",
+                "0.1f", "1.5d", "1e5F", "0x1.0P-1074", "-0x1.8p1", "0x1p3", "1.5 ",
+                "-Infinity", "-NaN", "1eNaN"
+        };
+        for (String s : testData) {
+            assertEquals(s, JSONObject.stringToValue(s), NumberScanner.scan(s));
+        }
+        final String alphabet = "0123456789-+.eExpfd ";
+        final Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            final char[] token = new char[1 + random.nextInt(8)];
+            for (int j = 0; j < token.length; j++) {
+                // weight towards digits so that most tokens are near-numbers
+                token[j] = random.nextInt(2) == 0
+                        ? (char) ('0' + random.nextInt(10))
+                        : alphabet.charAt(random.nextInt(alphabet.length()));
+            }
+            final String s = new String(token);
+            assertEquals(s, JSONObject.stringToValue(s), NumberScanner.scan(s));
+        }
+    }
+
     /**
      * This test documents numeric values which could be numerically
      * handled as BigDecimal or BigInteger. It helps determine what outputs
@@ -961,6 +1187,25 @@ public class JSONObjectTest {
                 "-23.45e2327".equals(obj));
     }
 
+    /**
+     * This test documents how numbers that are parsed and written back out
+     * untouched are normalized by the conversion to Integer/Long/Double.
+     * It shows which outputs will change if numbers are kept as their
+     * original text until a typed getter is called.
+     */
+    @Test
+    public void jsonNumbersPassedThroughToString() {
+        String str = "[1.10,1e5,-0.0,-0,100,1E+2,0.5e-3,12345678901234567890,"
+                + "299792.457999999984,1.0,2147483648,0.1]";
+        JSONArray jsonArray = new JSONArray(str);
+        assertEquals("numbers currently lose their original text",
+                "[1.1,100000,-0,-0,100,100,5.0E-4,\"12345678901234567890\","
+                + "299792.458,1,2147483648,0.1]",
+                jsonArray.toString());
+        // once normalized, another round trip is stable
+        assertEquals(jsonArray.toString(), new JSONArray(jsonArray.toString()).toString());
+    }
+
     /**
      * This test documents how JSON-Java handles invalid numeric input.
      */
@@ -1661,6 +1906,48 @@ public class JSONObjectTest {
         assertTrue("expected 5000000 actual "+str, str.equals("5000000"));
     }
 
+    /**
+     * numberToString() and doubleToString() on doubles spread over the
+     * whole exponent range must match Double.toString() with a trailing
+     * ".0" or trailing zeros removed from non-exponent forms, and must
+     * parse back to the same double. A faster formatter has to keep
+     * producing exactly these strings.
+     */
+    @Test
+    public void jsonObjectNumberToStringRoundTrip() {
+        final Random random = new Random(20200729L);
+        final List<Double> doubles = new ArrayList<Double>(Arrays.asList(
+                0.0, -0.0, 1.0, -1.0, 0.1, 0.5, 100.0, 1.0E7, 9999999.0, 0.001, 1.0E-3,
+                123456.789, Double.MIN_VALUE, Double.MIN_NORMAL, Double.MAX_VALUE,
+                (double) Long.MAX_VALUE, 4.35, 2.0E-7));
+        for (int i = 0; i < 10000; i++) {
+            doubles.add(Double.longBitsToDouble(random.nextLong()));
+            doubles.add(random.nextDouble() * Math.pow(10, random.nextInt(40) - 20));
+        }
+        for (Double d : doubles) {
+            if (d.isNaN() || d.isInfinite()) {
+                continue;
+            }
+            String expected = d.toString();
+            if (expected.indexOf('.') > 0 && expected.indexOf('E') < 0) {
+                while (expected.endsWith("0")) {
+                    expected = expected.substring(0, expected.length() - 1);
+                }
+                if (expected.endsWith(".")) {
+                    expected = expected.substring(0, expected.length() - 1);
+                }
+            }
+            assertEquals(expected, JSONObject.numberToString(d));
+            assertEquals(expected, JSONObject.doubleToString(d.doubleValue()));
+            assertEquals(d, Double.valueOf(JSONObject.numberToString(d)));
+        }
+        assertEquals("-0", JSONObject.numberToString(-0.0d));
+        assertEquals("1.0E7", JSONObject.numberToString(1.0E7d));
+        assertEquals("0.001", JSONObject.numberToString(0.001d));
+        assertEquals("4.9E-324", JSONObject.numberToString(Double.MIN_VALUE));
+        assertEquals("1.7976931348623157E308", JSONObject.numberToString(Double.MAX_VALUE));
+    }
+
     /**
      * Exercise JSONObject put() and similar() methods
      */
@@ -2334,6 +2621,31 @@ public class JSONObjectTest {
         }
     }
 
+    /**
+     * Malformed values are reported when the JSONObject is constructed,
+     * even in members the caller never reads. A lazily decoding
+     * JSONObject has to keep failing at construction time.
+     */
+    @Test
+    public void jsonObjectParsingErrorsInUnreadMembers() {
+        try {
+            String str = "{\"a\":1,\"b\":{\"c\":[1,2}},\"z\":3}";
+            assertNull("Expected an exception",new JSONObject(str));
+        } catch (JSONException e) {
+            assertEquals("Expecting an exception message",
+                    "Expected a ',' or ']' at 21 [character 22 line 1]",
+                    e.getMessage());
+        }
+        try {
+            String str = "{\"a\":1,\"z\":\"unterminated}";
+            assertNull("Expected an exception",new JSONObject(str));
+        } catch (JSONException e) {
+            assertEquals("Expecting an exception message",
+                    "Unterminated string at 25 [character 26 line 1]",
+                    e.getMessage());
+        }
+    }
+
     /**
      * Confirm behavior when putOnce() is called with null parameters
      */
@@ -2575,6 +2887,52 @@ public class JSONObjectTest {
                 "\"\u1234\\u0088\"".equals(quotedStr));
     }
 
+    /**
+     * Checks quote() for every char value, alone and between safe
+     * characters, so that a table driven escaper can be verified against
+     * the current rules.
+     */
+    @Test
+    public void jsonObjectQuoteAllChars() {
+        for (int i = 0; i <= Character.MAX_VALUE; i++) {
+            final char c = (char) i;
+            final String escaped;
+            switch (c) {
+            case '\\':
+            case '"':
+                escaped = "\\" + c;
+                break;
+            case '\b':
+                escaped = "\\b";
+                break;
+            case '\t':
+                escaped = "\\t";
+                break;
+            case '\n':
+                escaped = "\\n";
+                break;
+            case '\f':
+                escaped = "\\f";
+                break;
+            case '\r':
+                escaped = "\\r";
+                break;
+            default:
+                if (c < ' ' || (c >= '\u0080' && c < '\u00a0')
+                        || (c >= '\u2000' && c < '\u2100')) {
+                    escaped = String.format("\\u%04x", Integer.valueOf(i));
+                } else {
+                    escaped = String.valueOf(c);
+                }
+            }
+            assertEquals("char " + i, "\"" + escaped + "\"", JSONObject.quote(String.valueOf(c)));
+            assertEquals("char " + i, "\"ab" + escaped + "cd\"", JSONObject.quote("ab" + c + "cd"));
+        }
+        // '/' is only escaped after '<'
+        assertEquals("\"a/b<\\/c//\"", JSONObject.quote("a/b</c//"));
+        assertEquals("\"<<\\//\"", JSONObject.quote("<<//"));
+    }
+
     /**
      * Confirm behavior when JSONObject stringToValue() is called for an
      * empty string
@@ -2732,6 +3090,41 @@ public class JSONObjectTest {
         }
     }
 
+    /**
+     * Exercise the JSONObject write(Writer, int, int) method with escaped
+     * strings, every number type and nested values, writing after text
+     * that is already in the Writer. The serializer may only append.
+     */
+    @Test
+    public void write3ParamEscapesAndNumbers() throws IOException {
+        JSONObject jsonObject = new JSONObject()
+                .put("s", "tab\tquote\"slash</nul\u0000\u2028");
+        try (StringWriter stringWriter = new StringWriter()) {
+            stringWriter.write("prefix");
+            String actualStr = jsonObject.write(stringWriter, 2, 0).toString();
+            assertEquals("prefix{\"s\": \"tab\\tquote\\\"slash<\\/nul\\u0000\\u2028\"}", actualStr);
+        }
+
+        jsonObject = new JSONObject()
+                .put("n", new JSONArray()
+                        .put(1).put(-2L).put(2.5d).put(-0.0d).put(1.0E21d)
+                        .put(new BigDecimal("1.10")).put(new BigInteger("123456789012345678901234567890")));
+        String expectedStr =
+                "{\"n\": [\n" +
+                "  1,\n" +
+                "  -2,\n" +
+                "  2.5,\n" +
+                "  -0,\n" +
+                "  1.0E21,\n" +
+                "  1.1,\n" +
+                "  123456789012345678901234567890\n" +
+                "]}";
+        try (StringWriter stringWriter = new StringWriter()) {
+            String actualStr = jsonObject.write(stringWriter, 2, 0).toString();
+            assertEquals(expectedStr, actualStr);
+        }
+    }
+
     /**
      * Exercise the JSONObject write(Appendable, int, int) method
      */
@@ -3016,6 +3409,36 @@ public class JSONObjectTest {
         assertEquals(0, bean.genericSetCounter);
     }
     
+    /**
+     * Exercise the JSONObject toBean(Class) and JSONArray toList(Class) methods
+     */
+/*
+    @Test
+    public void testToGenericBean() {
+        JSONObject jsonObject = new JSONObject(new GenericBean<>(42));
+        jsonObject.put("genericValue", 43);
+        // GenericBean has no default constructor, so it is bound through
+        // its constructor parameter names (compiled with -parameters)
+        @SuppressWarnings("unchecked")
+        GenericBean<Integer> bean = jsonObject.toBean(GenericBean.class);
+        assertEquals("Expected the binding not to call the getter",
+                0, bean.genericGetCounter);
+        assertEquals("Expected the constructor to be used instead of the setter",
+                0, bean.genericSetCounter);
+        assertEquals(Integer.valueOf(43), bean.getGenericValue());
+        assertEquals(1, bean.genericGetCounter);
+
+        JSONArray jsonArray = new JSONArray()
+                .put(new JSONObject().put("genericValue", 1))
+                .put(new JSONObject().put("genericValue", 2));
+        @SuppressWarnings("rawtypes")
+        List<GenericBean> beans = jsonArray.toList(GenericBean.class);
+        assertEquals(2, beans.size());
+        assertEquals(Integer.valueOf(2), beans.get(1).getGenericValue());
+        assertEquals(1, beans.get(1).genericGetCounter);
+    }
+*/
+
     /**
      * Test to validate that a generic class can be serialized as a bean.
      */
@@ -0,0 +1,235 @@
+package org.json.junit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.junit.Test;
+
+/**
+ * Tests for JSONObject and JSONArray parsing with a JSONParserConfiguration.
+ * Until the JSON-java code is updated to support JSONParserConfiguration,
+ * these tests document the current parser behavior, which is what the
+ * default configuration has to reproduce.
+ */
+public class JSONParserConfigurationTest {
+
+    /**
+     * Duplicate keys are rejected by default.
+     */
+    @Test
+    public void shouldRejectDuplicateKeysByDefault() {
+        try {
+            String str = "{\"key\":1,\"key\":2}";
+            assertNull("Expected an exception", new JSONObject(new JSONTokener(str)));
+        } catch (JSONException e) {
+            assertEquals("Expecting an exception message",
+                    "Duplicate key \"key\" at 15 [character 16 line 1]",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * By default each number is converted to the narrowest of Integer,
+     * Long or Double, and numbers that fit none of them are kept as
+     * strings.
+     */
+    @Test
+    public void shouldGuessNumberTypesByDefault() {
+        JSONArray jsonArray = new JSONArray(new JSONTokener(
+                "[1,2147483648,1.5,12345678901234567890]"));
+        assertEquals(Integer.valueOf(1), jsonArray.get(0));
+        assertEquals(Long.valueOf(2147483648L), jsonArray.get(1));
+        assertEquals(Double.valueOf(1.5), jsonArray.get(2));
+        assertEquals("12345678901234567890", jsonArray.get(3));
+        assertEquals(new BigDecimal("12345678901234567890"), jsonArray.getBigDecimal(3));
+    }
+
+    /**
+     * There is no limit on string length by default.
+     */
+    @Test
+    public void shouldAcceptLongStringsByDefault() {
+        StringBuilder sb = new StringBuilder(1000010);
+        sb.append("{\"key\":\"");
+        for (int i = 0; i < 1000000; i++) {
+            sb.append('x');
+        }
+        sb.append("\"}");
+        JSONObject jsonObject = new JSONObject(new JSONTokener(sb.toString()));
+        assertEquals(1000000, jsonObject.getString("key").length());
+    }
+
+    /**
+     * Moderately nested documents parse by default.
+     */
+    @Test
+    public void shouldAcceptNestingByDefault() {
+        final int depth = 100;
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            sb.append("{\"k\":");
+        }
+        sb.append("true");
+        for (int i = 0; i < depth; i++) {
+            sb.append('}');
+        }
+        Object value = new JSONObject(new JSONTokener(sb.toString()));
+        for (int i = 0; i < depth; i++) {
+            assertTrue("depth " + i, value instanceof JSONObject);
+            value = ((JSONObject) value).get("k");
+        }
+        assertEquals(Boolean.TRUE, value);
+    }
+
+    /**
+     * Documents that hostile nesting is not bounded today: a deeply nested
+     * array recurses through nextValue() until the thread stack runs out,
+     * instead of failing with a JSONException. The parse runs on its own
+     * thread with a fixed 256 KB stack so that the overflow does not depend
+     * on, or disturb, the stack of the test runner.
+     * @throws InterruptedException if the parsing thread is interrupted
+     */
+    @Test
+    public void deepNestingCurrentlyOverflowsStack() throws InterruptedException {
+        final int depth = 100000;
+        final StringBuilder sb = new StringBuilder(depth);
+        for (int i = 0; i < depth; i++) {
+            sb.append('[');
+        }
+        final Object result = Util.parseOnSmallStack(sb.toString());
+        // currently expected, should become a JSONException once limits are enforced
+        assertTrue("Expected a StackOverflowError but got " + result.getClass(),
+                result instanceof StackOverflowError);
+    }
+
+    /**
+     * An unterminated string is reported as a JSONException once the
+     * input runs out, however long it is.
+     */
+    @Test
+    public void shouldRejectUnterminatedLongString() {
+        StringBuilder sb = new StringBuilder(1000010);
+        sb.append("[\"");
+        for (int i = 0; i < 1000000; i++) {
+            sb.append('x');
+        }
+        try {
+            assertNull("Expected an exception", new JSONArray(new JSONTokener(sb.toString())));
+        } catch (JSONException e) {
+            assertEquals("Expecting an exception message",
+                    "Unterminated string at 1000002 [character 1000003 line 1]",
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Confirm JSONParserConfiguration functionality.
+     */
+/*
+    @Test
+    public void testConfig() {
+        // immutable: each with...() call returns a new configuration
+        JSONParserConfiguration config = JSONParserConfiguration.DEFAULT
+                .withMaxNestingDepth(2)
+                .withMaxStringLength(5)
+                .withInternKeys(true)
+                .withNumberMode(JSONParserConfiguration.NumberMode.BIG_DECIMAL)
+                .withOrdered(true)
+                .withOverwriteDuplicateKey(true);
+        assertEquals(JSONParserConfiguration.DEFAULT_MAX_NESTING_DEPTH,
+                JSONParserConfiguration.DEFAULT.getMaxNestingDepth());
+        assertEquals(2, config.getMaxNestingDepth());
+
+        JSONObject jsonObject = new JSONObject(
+                new JSONTokener("{\"b\":1.5,\"a\":[1],\"b\":2}"), config);
+        // duplicate key overwrites
+        assertEquals(new BigDecimal("2"), jsonObject.get("b"));
+        // insertion order kept
+        assertEquals("{\"b\":2,\"a\":[1]}", jsonObject.toString());
+        // interned keys: the same key parsed from two documents is one instance
+        JSONObject first = new JSONObject(new JSONTokener("{\"key\":1}"), config);
+        JSONObject second = new JSONObject(new JSONTokener("{\"key\":2}"), config);
+        assertSame(first.keySet().iterator().next(), second.keySet().iterator().next());
+
+        try {
+            new JSONObject(new JSONTokener("{\"a\":{\"b\":[1]}}"), config);
+            fail("Expected an exception");
+        } catch (JSONException e) {
+            assertEquals("Maximum nesting depth of 2 reached at 11 [character 12 line 1]",
+                    e.getMessage());
+        }
+        try {
+            new JSONObject(new JSONTokener("{\"a\":\"123456\"}"), config);
+            fail("Expected an exception");
+        } catch (JSONException e) {
+            assertEquals("Maximum string length of 5 reached at 11 [character 12 line 1]",
+                    e.getMessage());
+        }
+    }
+*/
+
+    /**
+     * Confirm the parse limits fail fast with a JSONException.
+     */
+/*
+    @Test
+    public void testLimits() {
+        JSONParserConfiguration config = JSONParserConfiguration.DEFAULT
+                .withMaxNestingDepth(512)
+                .withMaxInputLength(1000)
+                .withMaxElementCount(3);
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000000; i++) {
+            sb.append('[');
+        }
+        // depth 513 is reached before the input length limit, and every
+        // array holds a single element
+        try {
+            new JSONArray(new JSONTokener(sb.toString()), config);
+            fail("Expected an exception");
+        } catch (JSONException e) {
+            assertEquals("Maximum nesting depth of 512 reached at 513 [character 514 line 1]",
+                    e.getMessage());
+        }
+        StringBuilder longString = new StringBuilder("[\"");
+        for (int i = 0; i < 2000; i++) {
+            longString.append('x');
+        }
+        longString.append("\"]");
+        try {
+            new JSONArray(new JSONTokener(longString.toString()), config);
+            fail("Expected an exception");
+        } catch (JSONException e) {
+            assertEquals("Maximum input length of 1000 reached at 1001 [character 1002 line 1]",
+                    e.getMessage());
+        }
+        try {
+            new JSONArray(new JSONTokener("[1,2,3,4]"), config);
+            fail("Expected an exception");
+        } catch (JSONException e) {
+            assertEquals("Maximum element count of 3 reached at 8 [character 9 line 1]",
+                    e.getMessage());
+        }
+
+        // iterative descent lifts the nesting limit without using the thread stack
+        config = JSONParserConfiguration.DEFAULT.withMaxNestingDepth(Integer.MAX_VALUE)
+                .withIterative(true);
+        sb.setLength(0);
+        for (int i = 0; i < 100000; i++) {
+            sb.append('[');
+        }
+        for (int i = 0; i < 100000; i++) {
+            sb.append(']');
+        }
+        assertEquals(1, new JSONArray(new JSONTokener(sb.toString()), config).length());
+    }
+*/
+}
@@ -5,6 +5,8 @@ import static org.junit.Assert.*;
 import java.util.*;
 
 import org.json.*;
+import org.json.junit.data.MyBeanCustomNameSubClass;
+import org.json.junit.data.MyJsonString;
 import org.junit.Test;
 
 import com.jayway.jsonpath.*;
@@ -349,4 +351,53 @@ public class JSONStringerTest {
         assertTrue("expected 4", Integer.valueOf(4).equals(jsonObject.query("/object2/array1/4")));
     }
 
+    /**
+     * This test documents how JSONStringer writes beans and JSONString
+     * values. A bean passed to value() is currently written as its quoted
+     * toString(), so beans have to be wrapped in a JSONObject first, which
+     * honors @JSONPropertyName and @JSONPropertyIgnore. A JSONString is
+     * written exactly as its toJSONString() returns it. Streaming beans
+     * straight to the writer will change the first of these expectations.
+     */
+    @Test
+    public void beanValueString() {
+        MyBeanCustomNameSubClass bean = new MyBeanCustomNameSubClass();
+        String str = new JSONStringer().object()
+                .key("bean").value(bean)
+                .key("wrapped").value(new JSONObject(bean))
+                .endObject().toString();
+        JSONObject jsonObject = new JSONObject(str);
+        assertEquals("bean currently evaluates to its toString()",
+                bean.toString(), jsonObject.getString("bean"));
+        JSONObject wrapped = jsonObject.getJSONObject("wrapped");
+        assertEquals("expected the same properties as new JSONObject(bean)",
+                new JSONObject(bean).keySet(), wrapped.keySet());
+        assertFalse("ignored property should not be written", wrapped.has("ShouldBeIgnored"));
+        assertTrue("renamed property should be written", wrapped.has("newIntFieldName"));
+
+        str = new JSONStringer().array().value(new MyJsonString()).endArray().toString();
+        assertEquals("JSONString should be written unchanged", "[my string]", str);
+    }
+
+    /**
+     * Writes the values of an Iterator through a JSONWriter one at a time,
+     * straight into the destination, and confirms that the output is the
+     * same as putting the whole collection into a JSONObject first.
+     */
+    @Test
+    public void iteratorArrayString() {
+        final List<Object> rows = new ArrayList<Object>();
+        for (int i = 0; i < 1000; i++) {
+            rows.add(i % 3 == 0 ? (Object) Integer.valueOf(i) : "row " + i);
+        }
+        StringBuilder sb = new StringBuilder();
+        JSONWriter jsonWriter = new JSONWriter(sb);
+        jsonWriter.object().key("rows").array();
+        for (Iterator<Object> it = rows.iterator(); it.hasNext();) {
+            jsonWriter.value(it.next());
+        }
+        jsonWriter.endArray().endObject();
+
+        assertEquals(new JSONObject().put("rows", rows).toString(), sb.toString());
+    }
 }
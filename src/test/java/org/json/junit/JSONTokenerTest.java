@@ -11,6 +11,8 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -159,6 +161,150 @@ public class JSONTokenerTest {
 
     }
     
+    /**
+     * Decimal numbers read by nextValue() must come back as the correctly
+     * rounded double, the same one Double.parseDouble() returns, for
+     * random values written at full precision and for known hard cases:
+     * halfway points, subnormals and the largest finite double.
+     */
+    @Test
+    public void testNextValueDoubleRounding() {
+        final String[] hardCases = {
+                "0.1", "0.3", "2.5", "1.7976931348623157e308", "4.9e-324",
+                "2.4703282292062328e-324", "2.2250738585072011e-308",
+                "2.2250738585072012e-308", "9007199254740993.0",
+                "9007199254740992.5", "1.00000000000000011102230246251565404236316680908203125",
+                "123456789012345678.9", "7.2057594037927933e16", "0.000001", "1e-7",
+                "-1.5e300", "3.14159265358979323846"
+        };
+        for (String hardCase : hardCases) {
+            assertEquals(hardCase, Double.valueOf(Double.parseDouble(hardCase)),
+                    new JSONTokener(hardCase).nextValue());
+        }
+        final Random random = new Random(20200729L);
+        for (int i = 0; i < 10000; i++) {
+            double d = Double.longBitsToDouble(random.nextLong());
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                continue;
+            }
+            String str = Double.toString(d);
+            assertEquals(str, Double.valueOf(d), new JSONTokener(str).nextValue());
+        }
+    }
+
+    /**
+     * Verifies that the elements of a top level array can be pulled from a
+     * Reader one at a time with nextClean() and nextValue(), so that only
+     * the current element is held in memory. This is the input contract
+     * an event based reader on top of JSONTokener would rely on.
+     * @throws IOException thrown if something unexpected happens.
+     */
+    @Test
+    public void testPullArrayElementsFromReader() throws IOException {
+        final String testStr = "[ {\"id\":0,\"tags\":[\"a\"]} ,\n"
+                + "{\"id\":1,\"tags\":[]}, 2, \"three\", null ]  ";
+        try(Reader reader = new StringReader(testStr)) {
+            final JSONTokener tokener = new JSONTokener(reader);
+            assertEquals('[', tokener.nextClean());
+            Object element = tokener.nextValue();
+            assertTrue(element instanceof JSONObject);
+            assertEquals(0, ((JSONObject)element).getInt("id"));
+            assertEquals(',', tokener.nextClean());
+            element = tokener.nextValue();
+            assertTrue(element instanceof JSONObject);
+            assertEquals(0, ((JSONObject)element).getJSONArray("tags").length());
+            assertEquals(',', tokener.nextClean());
+            assertEquals(Integer.valueOf(2), tokener.nextValue());
+            assertEquals(',', tokener.nextClean());
+            assertEquals("three", tokener.nextValue());
+            assertEquals(',', tokener.nextClean());
+            assertEquals(JSONObject.NULL, tokener.nextValue());
+            assertEquals(']', tokener.nextClean());
+            assertEquals(0, tokener.nextClean());
+            assertTrue(tokener.end());
+        }
+    }
+
+    /**
+     * Verifies that next() and back() keep returning the right characters
+     * and positions once the input is larger than any internal read buffer.
+     * The reader does not support mark(), so JSONTokener wraps it in a
+     * BufferedReader, and it hands out a few characters per read call to
+     * force many refills of that buffer.
+     * @throws IOException thrown if something unexpected happens.
+     */
+    @Test
+    public void testNextBackAcrossReadBoundaries() throws IOException {
+        final StringBuilder sb = new StringBuilder(20000);
+        for(int i=0;i<20000;i++) {
+            sb.append((char)('a' + i % 26));
+        }
+        final String testString = sb.toString();
+        final int[] readCalls = new int[1];
+        try(Reader reader = new StringReader(testString) {
+            @Override
+            public int read(char[] cbuf, int off, int len) throws IOException {
+                readCalls[0]++;
+                return super.read(cbuf, off, Math.min(len, 7));
+            }
+
+            @Override
+            public boolean markSupported() {
+                return false;
+            }
+        }) {
+            final JSONTokener tokener = new JSONTokener(reader);
+            for(int i=0;i<testString.length();i++) {
+                assertEquals(testString.charAt(i), tokener.next());
+                if(i % 1000 == 999) {
+                    tokener.back();
+                    assertTrue(tokener.toString().startsWith(" at " + i + " "));
+                    assertEquals(testString.charAt(i), tokener.next());
+                }
+            }
+            assertEquals(0, tokener.next());
+            assertFalse(tokener.more());
+        }
+        assertTrue("Expected many small reads", readCalls[0] > testString.length() / 7);
+    }
+
+    /**
+     * Verifies that UTF-8 input read from an InputStream decodes 1, 2, 3
+     * and 4 byte sequences in keys and string values and leaves the
+     * surrounding numbers and literals intact. The padding length is
+     * varied so that, in turn, each multi-byte sequence straddles byte
+     * offset 8192, the size of the InputStreamReader byte buffer, and the
+     * surrogate pair straddles char offset 8192, the size of the
+     * BufferedReader that JSONTokener wraps the reader in. The charset is
+     * given explicitly because JSONTokener(InputStream) uses the platform
+     * default.
+     * @throws IOException thrown if something unexpected happens.
+     */
+    @Test
+    public void testUtf8InputStream() throws IOException {
+        final String value = "a\u00e9\u4e2d\ud83d\ude00z";
+        // With a padding of p characters the key's 2 byte sequence starts at
+        // byte p+12 and the value's 2, 3 and 4 byte sequences at bytes p+19,
+        // p+21 and p+24, and the high surrogate sits at char p+20. Each of
+        // them crosses offset 8192 for some p between 8165 and 8179.
+        for(int p=8160;p<=8185;p++) {
+            final StringBuilder padding = new StringBuilder(p);
+            for(int i=0;i<p;i++) {
+                padding.append('x');
+            }
+            final String json = "{\"pad\":\"" + padding + "\",\"k\u00e9y\":\"" + value
+                    + "\",\"n\":-12.5,\"b\":true}";
+            try(Reader reader = new InputStreamReader(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)) {
+                final JSONObject jsonObject = new JSONObject(new JSONTokener(reader));
+                assertEquals(padding.toString(), jsonObject.getString("pad"));
+                assertEquals("padding " + p, value, jsonObject.getString("k\u00e9y"));
+                assertEquals(-12.5, jsonObject.getDouble("n"), 0);
+                assertTrue(jsonObject.getBoolean("b"));
+            }
+        }
+    }
+
     /**
      * Tests the failure of the skipTo method with a buffered reader. Preferably
      * we'd like this not to fail but at this time we don't have a good recovery.
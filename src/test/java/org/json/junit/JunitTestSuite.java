@@ -19,7 +19,8 @@ import org.junit.runners.Suite;
    JSONPointerTest.class,
    JSONStringTest.class,
    JSONTokenerTest.class,
-   XMLConfigurationTest.class
+   XMLConfigurationTest.class,
+   JSONParserConfigurationTest.class
 })
 public class JunitTestSuite {
 }
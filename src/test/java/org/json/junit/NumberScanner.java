@@ -0,0 +1,189 @@
+package org.json.junit;
+
+/**
+ * Single pass number scanner with no regular expression, used by
+ * NumberParsingBenchmark and checked against
+ * <code>JSONObject.stringToValue</code> by JSONObjectTest.
+ */
+final class NumberScanner {
+
+    /** Powers of ten that are exactly representable as a double */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    /** static methods only */
+    private NumberScanner() {
+    }
+
+    /**
+     * Classifies a token the way the number handling of
+     * <code>JSONObject.stringToValue</code> does, in one pass over its
+     * characters:
+     * <ul>
+     * <li>integers without leading zeros that fit in a long are returned as
+     * Integer or Long, larger ones as the original String</li>
+     * <li>"-0" and tokens with a decimal point or exponent are returned as
+     * Double, or as the original String when the value is infinite</li>
+     * <li>anything else is returned as the original String</li>
+     * </ul>
+     * Decimals with up to 15 significant digits and a small exponent are
+     * computed exactly without <code>Double.parseDouble</code>. Java-only
+     * float forms that <code>Double.valueOf</code> also accepts (hex floats,
+     * <code>f</code>/<code>d</code> suffixes, trailing whitespace) are
+     * handed to it, so only those malformed tokens can throw internally.
+     * @param s the token to classify
+     * @return Integer, Long, Double or the original String
+     */
+    static Object scan(String s) {
+        final int len = s.length();
+        int i = 0;
+        boolean negative = false;
+        if (i < len && s.charAt(i) == '-') {
+            negative = true;
+            i++;
+        }
+        final int intStart = i;
+        long mantissa = 0;
+        int digits = 0;
+        while (i < len) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9') {
+                break;
+            }
+            if (digits < 19) {
+                mantissa = mantissa * 10 + (c - '0');
+            }
+            if (digits > 0 || c != '0') {
+                digits++;
+            }
+            i++;
+        }
+        final int intDigits = i - intStart;
+        if (intDigits == 0 && !negative) {
+            // stringToValue only treats tokens starting with a digit or '-' as numbers
+            return s;
+        }
+        boolean decimal = false;
+        int fractionDigits = 0;
+        int allFractionDigits = 0;
+        if (i < len && s.charAt(i) == '.') {
+            decimal = true;
+            i++;
+            final int fractionStart = i;
+            while (i < len) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (digits < 19) {
+                    mantissa = mantissa * 10 + (c - '0');
+                    fractionDigits++;
+                }
+                if (digits > 0 || c != '0') {
+                    digits++;
+                }
+                i++;
+            }
+            allFractionDigits = i - fractionStart;
+        }
+        if (intDigits == 0 && allFractionDigits == 0) {
+            return javaFloat(s);
+        }
+        int exponent = 0;
+        if (i < len && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            decimal = true;
+            i++;
+            boolean negativeExponent = false;
+            if (i < len && (s.charAt(i) == '+' || s.charAt(i) == '-')) {
+                negativeExponent = s.charAt(i) == '-';
+                i++;
+            }
+            final int exponentStart = i;
+            while (i < len) {
+                char c = s.charAt(i);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                if (exponent < 100000) {
+                    exponent = exponent * 10 + (c - '0');
+                }
+                i++;
+            }
+            if (i == exponentStart) {
+                return javaFloat(s);
+            }
+            if (negativeExponent) {
+                exponent = -exponent;
+            }
+        }
+        if (i != len) {
+            return javaFloat(s);
+        }
+        if (!decimal) {
+            if (negative && intDigits == 1 && mantissa == 0) {
+                return Double.valueOf(-0.0d);
+            }
+            if (intDigits > 1 && s.charAt(intStart) == '0') {
+                return s;
+            }
+            // a 19 digit mantissa that overflowed wraps to a negative long
+            if (digits > 19 || mantissa < 0 && !(negative && mantissa == Long.MIN_VALUE)) {
+                return s;
+            }
+            long value = negative ? -mantissa : mantissa;
+            if (value == (int) value) {
+                return Integer.valueOf((int) value);
+            }
+            return Long.valueOf(value);
+        }
+        final int scale = exponent - fractionDigits;
+        if (digits <= 15 && scale >= -22 && scale <= 22) {
+            double value = mantissa;
+            value = scale < 0 ? value / POWERS_OF_TEN[-scale] : value * POWERS_OF_TEN[scale];
+            return Double.valueOf(negative ? -value : value);
+        }
+        double value = Double.parseDouble(s);
+        if (Double.isInfinite(value)) {
+            return s;
+        }
+        return Double.valueOf(value);
+    }
+
+    /**
+     * Handles tokens that are not in the scanner grammar. stringToValue
+     * passes any token that starts with a digit or '-' and contains '.',
+     * 'e' or 'E' to <code>Double.valueOf</code>, which also accepts Java
+     * float literals, so those few forms are delegated the same way.
+     * @param s the token to classify
+     * @return a finite Double for a Java float literal, else the String
+     */
+    private static Object javaFloat(String s) {
+        final int len = s.length();
+        if (len == 0) {
+            return s;
+        }
+        final char first = s.charAt(0);
+        if ((first < '0' || first > '9') && first != '-') {
+            return s;
+        }
+        if (s.indexOf('.') < 0 && s.indexOf('e') < 0 && s.indexOf('E') < 0) {
+            return s;
+        }
+        final char last = s.charAt(len - 1);
+        final int hexStart = first == '-' ? 1 : 0;
+        final boolean hex = s.startsWith("0x", hexStart) || s.startsWith("0X", hexStart);
+        if (!hex && last != 'f' && last != 'F' && last != 'd' && last != 'D' && last > ' ') {
+            return s;
+        }
+        try {
+            Double d = Double.valueOf(s);
+            if (!d.isInfinite() && !d.isNaN()) {
+                return d;
+            }
+        } catch (NumberFormatException ignore) {
+        }
+        return s;
+    }
+}
@@ -95,4 +95,29 @@ public class Util {
                 value.toString().equals(expectedValue.toString()));
         }
     }
+
+    /**
+     * Parses a JSON value on a new thread with a 256 KB stack, so that
+     * the depth a recursive parse reaches does not depend on the stack of
+     * the test runner.
+     * @param str the text to parse
+     * @return the parsed value, or whatever the parse threw
+     * @throws InterruptedException if the thread is interrupted
+     */
+    public static Object parseOnSmallStack(final String str) throws InterruptedException {
+        final Object[] result = new Object[1];
+        Thread thread = new Thread(null, new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    result[0] = new JSONTokener(str).nextValue();
+                } catch (Throwable e) {
+                    result[0] = e;
+                }
+            }
+        }, "small stack parse", 256 * 1024);
+        thread.start();
+        thread.join();
+        return result[0];
+    }
 }
@@ -0,0 +1,101 @@
+package org.json.junit.data;
+
+import java.util.List;
+
+/**
+ * Bean with the fields of a benchmark record that services usually bind,
+ * used by BeanMappingBenchmark as the target of JSONObject to bean
+ * mapping.
+ */
+public class RecordBean {
+    /** record id */
+    private int id;
+    /** creation time in milliseconds */
+    private long timestamp;
+    /** record name */
+    private String name;
+    /** active flag */
+    private boolean active;
+    /** record score */
+    private double score;
+    /** record tags */
+    private List<String> tags;
+
+    /** @return the id */
+    public int getId() {
+        return this.id;
+    }
+
+    /**
+     * @param id
+     *            id to set
+     */
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    /** @return the timestamp */
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    /**
+     * @param timestamp
+     *            timestamp to set
+     */
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    /** @return the name */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * @param name
+     *            name to set
+     */
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /** @return the active flag */
+    public boolean isActive() {
+        return this.active;
+    }
+
+    /**
+     * @param active
+     *            active flag to set
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    /** @return the score */
+    public double getScore() {
+        return this.score;
+    }
+
+    /**
+     * @param score
+     *            score to set
+     */
+    public void setScore(double score) {
+        this.score = score;
+    }
+
+    /** @return the tags */
+    public List<String> getTags() {
+        return this.tags;
+    }
+
+    /**
+     * @param tags
+     *            tags to set
+     */
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}